@@ -5,6 +5,8 @@ import java.io.*;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.prefs.Preferences;
 import javax.swing.*;
 import javax.swing.border.*;
 
@@ -144,6 +146,7 @@ public class ExamInvigilationPlanner extends JFrame {
     private final JTextArea outputArea = createFuturisticTextArea();
     private final JList<ScheduleRecord> historyList = new JList<>();
     private final DefaultListModel<ScheduleRecord> historyModel = new DefaultListModel<>();
+    private final JLabel historyStatusLabel = new JLabel();
 
     private final List<Exam> examList = new ArrayList<>();
     private final List<Teacher> teacherList = new ArrayList<>();
@@ -152,6 +155,12 @@ public class ExamInvigilationPlanner extends JFrame {
     private int teacherCounter = 0;
 
     private File currentHistoryFile;
+    private SwingWorker<Integer, ScheduleRecord> historyLoader;
+    private int loadedRecordCount = 0;
+    private boolean historyLoadFailed = false;
+
+    private static final String LAST_HISTORY_FILE_KEY = "lastHistoryFile";
+    private final Preferences prefs = Preferences.userRoot().node("ExamInvigilationPlanner");
 
     public ExamInvigilationPlanner() {
         setTitle("🚀 Exam Invigilation Planner");
@@ -220,6 +229,9 @@ public class ExamInvigilationPlanner extends JFrame {
 
         historyList.setModel(historyModel);
         historyList.setCellRenderer(new HistoryListRenderer());
+        // Fixed cell size so streaming large histories doesn't re-measure every row
+        historyList.setPrototypeCellValue(
+                new ScheduleRecord("✅ Teacher assignment successful:", Collections.emptyMap()));
         historyList.setBackground(SECONDARY_COLOR);
         historyList.setForeground(TEXT_COLOR);
         historyList.setSelectionBackground(PRIMARY_COLOR);
@@ -229,6 +241,12 @@ public class ExamInvigilationPlanner extends JFrame {
         historyScroll.setBorder(BorderFactory.createEmptyBorder());
         historyPanel.add(historyScroll, BorderLayout.CENTER);
 
+        historyStatusLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        historyStatusLabel.setForeground(new Color(255, 120, 80));
+        historyStatusLabel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        historyStatusLabel.setVisible(false);
+        historyPanel.add(historyStatusLabel, BorderLayout.SOUTH);
+
         // Add components to main panel
         mainPanel.add(inputPanel, BorderLayout.NORTH);
         mainPanel.add(actionPanel, BorderLayout.CENTER);
@@ -258,13 +276,13 @@ public class ExamInvigilationPlanner extends JFrame {
             }
         });
 
-        // Load history on startup
-        loadHistoryFromCSV();
-
         // Set window properties
         setSize(1200, 700);
         setLocationRelativeTo(null);
         setVisible(true);
+
+        // Load last used history in the background once the window is up
+        autoLoadLastHistory();
     }
 
     // --------------------- Helper Methods ---------------------
@@ -449,6 +467,8 @@ public class ExamInvigilationPlanner extends JFrame {
                 "Confirm Clear", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
+            cancelHistoryLoad();
+            setHistoryLoadFailed(false, null);
             examList.clear();
             teacherList.clear();
             scheduleHistory.clear();
@@ -465,6 +485,21 @@ public class ExamInvigilationPlanner extends JFrame {
     }
 
     private void saveHistoryToCSV() {
+        if (isHistoryLoading()) {
+            JOptionPane.showMessageDialog(this,
+                    "History is still loading. Please wait and try again.",
+                    "Save Unavailable", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        if (historyLoadFailed) {
+            int confirm = JOptionPane.showConfirmDialog(this,
+                    "The last history load failed, so some records may be missing.\n" +
+                            "Saving may overwrite the full history file. Continue?",
+                    "Confirm Save", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+            if (confirm != JOptionPane.YES_OPTION) return;
+        }
+
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setSelectedFile(currentHistoryFile);
         fileChooser.setDialogTitle("Save Schedule History");
@@ -480,10 +515,12 @@ public class ExamInvigilationPlanner extends JFrame {
                     for (ScheduleRecord record : scheduleHistory) {
                         writer.println(record.toCSV());
                     }
-                    JOptionPane.showMessageDialog(this,
-                            "History saved to:\n" + currentHistoryFile.getAbsolutePath(),
-                            "Save Successful", JOptionPane.INFORMATION_MESSAGE);
                 }
+                rememberHistoryFile(currentHistoryFile);
+                setHistoryLoadFailed(false, null);
+                JOptionPane.showMessageDialog(this,
+                        "History saved to:\n" + currentHistoryFile.getAbsolutePath(),
+                        "Save Successful", JOptionPane.INFORMATION_MESSAGE);
             } catch (IOException e) {
                 JOptionPane.showMessageDialog(this,
                         "Error saving history: " + e.getMessage(),
@@ -499,41 +536,119 @@ public class ExamInvigilationPlanner extends JFrame {
 
         if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             currentHistoryFile = fileChooser.getSelectedFile();
-            try (BufferedReader reader = new BufferedReader(new FileReader(currentHistoryFile))) {
-                historyModel.clear();
-                scheduleHistory.clear();
-
-                String line;
-                boolean firstLine = true;
-                while ((line = reader.readLine()) != null) {
-                    if (firstLine) {
-                        firstLine = false;
-                        continue;
-                    }
-                    if (line.trim().isEmpty()) continue;
+            loadHistoryInBackground(currentHistoryFile, true);
+        }
+    }
+
+    private void autoLoadLastHistory() {
+        String lastPath = prefs.get(LAST_HISTORY_FILE_KEY, null);
+        File lastFile = lastPath != null ? new File(lastPath) : null;
+        if (lastFile == null || !lastFile.isFile()) {
+            lastFile = currentHistoryFile;
+        }
+        if (lastFile.isFile()) {
+            currentHistoryFile = lastFile;
+            loadHistoryInBackground(lastFile, false);
+        }
+    }
+
+    private void rememberHistoryFile(File file) {
+        if (file != null) {
+            prefs.put(LAST_HISTORY_FILE_KEY, file.getAbsolutePath());
+        }
+    }
+
+    private void setHistoryLoadFailed(boolean failed, String message) {
+        historyLoadFailed = failed;
+        historyStatusLabel.setText(failed ? "⚠ Could not load history" : "");
+        historyStatusLabel.setToolTipText(failed ? message : null);
+        historyStatusLabel.setVisible(failed);
+    }
+
+    private boolean isHistoryLoading() {
+        return historyLoader != null && !historyLoader.isDone();
+    }
+
+    private void cancelHistoryLoad() {
+        if (isHistoryLoading()) {
+            historyLoader.cancel(true);
+        }
+    }
+
+    private void loadHistoryInBackground(File file, boolean showStatus) {
+        cancelHistoryLoad();
+
+        historyModel.clear();
+        scheduleHistory.clear();
+        loadedRecordCount = 0;
+        setHistoryLoadFailed(false, null);
+
+        // Records are parsed off the EDT and published in chunks
+        historyLoader = new SwingWorker<Integer, ScheduleRecord>() {
+            @Override
+            protected Integer doInBackground() throws IOException {
+                int count = 0;
+                try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                    String line;
+                    boolean firstLine = true;
+                    while ((line = reader.readLine()) != null && !isCancelled()) {
+                        if (firstLine) {
+                            firstLine = false;
+                            continue;
+                        }
+                        if (line.trim().isEmpty()) continue;
 
-                    ScheduleRecord record = ScheduleRecord.fromCSV(line);
-                    if (record != null) {
-                        scheduleHistory.add(record);
-                        historyModel.addElement(record);
+                        ScheduleRecord record = ScheduleRecord.fromCSV(line);
+                        if (record != null) {
+                            publish(record);
+                            count++;
+                        }
                     }
                 }
+                return count;
+            }
 
-                if (!scheduleHistory.isEmpty()) {
-                    JOptionPane.showMessageDialog(this,
-                            "Loaded " + scheduleHistory.size() + " history records",
-                            "Load Successful", JOptionPane.INFORMATION_MESSAGE);
-                } else {
-                    JOptionPane.showMessageDialog(this,
-                            "History file is empty",
-                            "Load Status", JOptionPane.INFORMATION_MESSAGE);
+            @Override
+            protected void process(List<ScheduleRecord> batch) {
+                if (isCancelled()) return;
+                // Keep loaded records ahead of schedules generated during the load
+                scheduleHistory.addAll(loadedRecordCount, batch);
+                for (ScheduleRecord record : batch) {
+                    historyModel.add(loadedRecordCount++, record);
                 }
-            } catch (IOException e) {
-                JOptionPane.showMessageDialog(this,
-                        "Error loading history: " + e.getMessage(),
-                        "Load Error", JOptionPane.ERROR_MESSAGE);
             }
-        }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) return;
+                try {
+                    int count = get();
+                    rememberHistoryFile(file);
+                    if (!showStatus) return;
+                    if (count > 0) {
+                        JOptionPane.showMessageDialog(ExamInvigilationPlanner.this,
+                                "Loaded " + count + " history records",
+                                "Load Successful", JOptionPane.INFORMATION_MESSAGE);
+                    } else {
+                        JOptionPane.showMessageDialog(ExamInvigilationPlanner.this,
+                                "History file is empty",
+                                "Load Status", JOptionPane.INFORMATION_MESSAGE);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    String message = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+                    setHistoryLoadFailed(true, message);
+                    if (showStatus) {
+                        JOptionPane.showMessageDialog(ExamInvigilationPlanner.this,
+                                "Error loading history: " + message,
+                                "Load Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            }
+        };
+        historyLoader.execute();
     }
 
     private void openFileLocation() {
@@ -556,14 +671,16 @@ public class ExamInvigilationPlanner extends JFrame {
         private final Color SELECTION_BG = new Color(0, 120, 215);
         private final Color ODD_ROW = new Color(40, 40, 40);
         private final Color EVEN_ROW = new Color(50, 50, 50);
+        private final Border CELL_BORDER = BorderFactory.createEmptyBorder(5, 10, 5, 10);
+        private final Font CELL_FONT = new Font("Segoe UI", Font.PLAIN, 12);
 
         @Override
         public Component getListCellRendererComponent(JList<?> list, Object value,
                                                       int index, boolean isSelected, boolean cellHasFocus) {
             super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
 
-            setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
-            setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            setBorder(CELL_BORDER);
+            setFont(CELL_FONT);
 
             if (isSelected) {
                 setBackground(SELECTION_BG);